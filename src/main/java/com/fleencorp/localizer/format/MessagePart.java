@@ -0,0 +1,272 @@
+package com.fleencorp.localizer.format;
+
+import java.math.BigDecimal;
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A node of a compiled {@link MessageTemplate}. Each part appends its output to the builder of the
+ * {@link RenderContext} it is rendered with.
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+interface MessagePart {
+
+  void render(RenderContext context);
+
+  /**
+   * Renders the given parts in order.
+   *
+   * @param parts the parts to render
+   * @param context the {@link RenderContext} to render the parts with
+   */
+  static void renderAll(final MessagePart[] parts, final RenderContext context) {
+    for (final MessagePart part : parts) {
+      part.render(context);
+    }
+  }
+
+  /**
+   * Literal text, with quoting already resolved at parse time.
+   */
+  record Text(String text) implements MessagePart {
+
+    @Override
+    public void render(final RenderContext context) {
+      context.builder.append(text);
+    }
+  }
+
+  /**
+   * A {@code {n}} argument, formatted the same way {@link java.text.MessageFormat} formats an argument without a type.
+   */
+  record Argument(int index) implements MessagePart {
+
+    @Override
+    public void render(final RenderContext context) {
+      if (!context.hasArgument(index)) {
+        context.builder.append('{').append(index).append('}');
+        return;
+      }
+
+      final Object value = context.args[index];
+      if (value instanceof Number number) {
+        context.builder.append(context.numberFormat().format(number));
+      } else if (value instanceof Date date) {
+        context.builder.append(context.dateTimeFormat().format(date));
+      } else {
+        context.builder.append(value);
+      }
+    }
+  }
+
+  /**
+   * A {@code {n, number}} or {@code {n, number, integer|percent}} argument.
+   */
+  record NumberArgument(int index, NumberStyle style) implements MessagePart {
+
+    @Override
+    public void render(final RenderContext context) {
+      if (!context.hasArgument(index)) {
+        context.builder.append('{').append(index).append('}');
+        return;
+      }
+
+      final Object value = context.args[index];
+      if (value instanceof Number number) {
+        context.builder.append(context.numberFormat(style).format(number));
+      } else {
+        context.builder.append(value);
+      }
+    }
+  }
+
+  /**
+   * The {@code #} placeholder of a plural sub-message, rendered as the plural value minus the offset.
+   */
+  record Pound() implements MessagePart {
+
+    @Override
+    public void render(final RenderContext context) {
+      if (nonNull(context.pluralNumber)) {
+        context.builder.append(context.numberFormat().format(context.pluralNumber));
+      } else {
+        context.builder.append('#');
+      }
+    }
+  }
+
+  /**
+   * A {@code {n, plural, ...}} argument. Explicit {@code =x} selectors are matched against the argument
+   * before the offset is applied, while keyword selectors are matched against the plural category of the
+   * argument minus the offset, rounded the way {@code #} renders it. Keywords missing from the message fall
+   * back to {@code other}.
+   */
+  record Plural(int index, double offset, double[] explicitValues, MessagePart[][] explicitParts, MessagePart[][] categories) implements MessagePart {
+
+    @Override
+    public void render(final RenderContext context) {
+      if (!context.hasArgument(index) || !(context.args[index] instanceof Number number)) {
+        context.builder.append('{').append(index).append('}');
+        return;
+      }
+
+      final MessagePart[] exact = selectExplicit(number.doubleValue());
+      final Number value = context.rounded(subtractOffset(number));
+      final MessagePart[] selected = nonNull(exact)
+        ? exact
+        : select(context.pluralRules().select(value));
+
+      final Number previous = context.pluralNumber;
+      context.pluralNumber = value;
+      renderAll(selected, context);
+      context.pluralNumber = previous;
+    }
+
+    private Number subtractOffset(final Number number) {
+      if (offset == 0) {
+        return number;
+      }
+      if (number instanceof Double || number instanceof Float) {
+        return number.doubleValue() - offset;
+      }
+      final BigDecimal decimal = PluralOperands.toBigDecimal(number);
+      return isNull(decimal) ? number.doubleValue() - offset : decimal.subtract(BigDecimal.valueOf(offset));
+    }
+
+    private MessagePart[] selectExplicit(final double number) {
+      for (int i = 0; i < explicitValues.length; i++) {
+        if (explicitValues[i] == number) {
+          return explicitParts[i];
+        }
+      }
+      return null;
+    }
+
+    private MessagePart[] select(final PluralCategory category) {
+      final MessagePart[] parts = categories[category.ordinal()];
+      return isNull(parts) ? categories[PluralCategory.OTHER.ordinal()] : parts;
+    }
+  }
+
+  /**
+   * A {@code {n, select, ...}} argument, matched against the string value of the argument.
+   */
+  record Select(int index, Map<String, MessagePart[]> cases, MessagePart[] other) implements MessagePart {
+
+    @Override
+    public void render(final RenderContext context) {
+      if (!context.hasArgument(index)) {
+        context.builder.append('{').append(index).append('}');
+        return;
+      }
+
+      final Object value = context.args[index];
+      final MessagePart[] selected = cases.getOrDefault(String.valueOf(value), other);
+      renderAll(selected, context);
+    }
+  }
+
+  /**
+   * The supported styles of a {@code number} argument.
+   */
+  enum NumberStyle {
+    DEFAULT,
+    INTEGER,
+    PERCENT;
+
+    NumberFormat format(final Locale locale) {
+      return switch (this) {
+        case INTEGER -> NumberFormat.getIntegerInstance(locale);
+        case PERCENT -> NumberFormat.getPercentInstance(locale);
+        default -> NumberFormat.getInstance(locale);
+      };
+    }
+  }
+
+  /**
+   * The state of a single rendering: the locale, the arguments, the output and the formatters and plural
+   * rules, which are created on first use and reused for the rest of the rendering.
+   */
+  final class RenderContext {
+
+    final Locale locale;
+    final Object[] args;
+    final StringBuilder builder;
+    Number pluralNumber;
+    private NumberFormat numberFormat;
+    private NumberFormat[] styledNumberFormats;
+    private DateFormat dateTimeFormat;
+    private PluralRules pluralRules;
+
+    RenderContext(final Locale locale, final Object[] args, final StringBuilder builder) {
+      this.locale = locale;
+      this.args = args;
+      this.builder = builder;
+    }
+
+    boolean hasArgument(final int index) {
+      return nonNull(args) && index >= 0 && index < args.length;
+    }
+
+    NumberFormat numberFormat() {
+      if (isNull(numberFormat)) {
+        numberFormat = NumberFormat.getInstance(locale);
+      }
+      return numberFormat;
+    }
+
+    /**
+     * Rounds the given number to the fraction digits and rounding mode of the default number format, so that
+     * its plural category is selected from the same digits that {@code #} renders.
+     */
+    Number rounded(final Number number) {
+      if (PluralOperands.isIntegral(number)) {
+        return number;
+      }
+      final BigDecimal decimal = PluralOperands.toBigDecimal(number);
+      if (isNull(decimal)) {
+        return number;
+      }
+      final NumberFormat format = numberFormat();
+      if (decimal.scale() <= format.getMaximumFractionDigits()) {
+        return decimal;
+      }
+      return decimal.setScale(format.getMaximumFractionDigits(), format.getRoundingMode());
+    }
+
+    NumberFormat numberFormat(final NumberStyle style) {
+      if (style == NumberStyle.DEFAULT) {
+        return numberFormat();
+      }
+      if (isNull(styledNumberFormats)) {
+        styledNumberFormats = new NumberFormat[NumberStyle.values().length];
+      }
+      if (isNull(styledNumberFormats[style.ordinal()])) {
+        styledNumberFormats[style.ordinal()] = style.format(locale);
+      }
+      return styledNumberFormats[style.ordinal()];
+    }
+
+    DateFormat dateTimeFormat() {
+      if (isNull(dateTimeFormat)) {
+        dateTimeFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+      }
+      return dateTimeFormat;
+    }
+
+    PluralRules pluralRules() {
+      if (isNull(pluralRules)) {
+        pluralRules = PluralRules.forLocale(locale);
+      }
+      return pluralRules;
+    }
+  }
+}
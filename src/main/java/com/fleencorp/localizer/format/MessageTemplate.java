@@ -0,0 +1,60 @@
+package com.fleencorp.localizer.format;
+
+import java.util.Locale;
+
+import static java.util.Objects.isNull;
+
+/**
+ * An ICU MessageFormat pattern compiled once into a tree of parts that can be rendered any number of times,
+ * from any number of threads, without being parsed again.
+ *
+ * <p>Besides numbered arguments, a template supports plural and select arguments, for example:</p>
+ *
+ * <pre>{@code
+ * {0, select, female {She has} male {He has} other {They have}} {1, plural, =0 {no messages} one {# message} other {# messages}}
+ * }</pre>
+ *
+ * <p>Plural arguments use the precompiled {@link PluralRules} of the locale the template is rendered for.</p>
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+public final class MessageTemplate {
+
+  private final String pattern;
+  private final MessagePart[] parts;
+
+  private MessageTemplate(final String pattern, final MessagePart[] parts) {
+    this.pattern = pattern;
+    this.parts = parts;
+  }
+
+  /**
+   * Compiles the given ICU MessageFormat pattern into a {@link MessageTemplate}.
+   *
+   * @param pattern the pattern to compile
+   * @return the compiled {@link MessageTemplate}
+   * @throws IllegalArgumentException if the pattern is not valid
+   */
+  public static MessageTemplate compile(final String pattern) {
+    return new MessageTemplate(pattern, MessageTemplateParser.parse(pattern));
+  }
+
+  /**
+   * Renders this template for the given locale with the given arguments.
+   *
+   * @param locale the locale to format numbers and select plural categories for, or {@code null} for the default locale
+   * @param args the arguments referenced by index in the template
+   * @return the rendered message as a {@link String}
+   */
+  public String format(final Locale locale, final Object...args) {
+    final Locale localeToUse = isNull(locale) ? Locale.getDefault(Locale.Category.FORMAT) : locale;
+    final StringBuilder builder = new StringBuilder(pattern.length() + 16);
+    MessagePart.renderAll(parts, new MessagePart.RenderContext(localeToUse, args, builder));
+    return builder.toString();
+  }
+
+  public String getPattern() {
+    return pattern;
+  }
+}
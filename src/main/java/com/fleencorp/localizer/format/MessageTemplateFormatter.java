@@ -0,0 +1,61 @@
+package com.fleencorp.localizer.format;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Formats ICU MessageFormat patterns, compiling each distinct pattern into a {@link MessageTemplate} only once.
+ *
+ * <p>Compiled templates are cached by pattern, so a pattern shared by several locales is compiled once, and a
+ * pattern that changes, for example after a message source reload, is compiled again instead of being served
+ * from a stale entry. The formatter is thread-safe and is meant to be shared.</p>
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+public class MessageTemplateFormatter {
+
+  private static final MessageTemplateFormatter DEFAULT = new MessageTemplateFormatter();
+
+  private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the formatter shared by {@link com.fleencorp.localizer.service.Localizer} implementations that do not
+   * provide their own.
+   *
+   * @return the shared {@link MessageTemplateFormatter}
+   */
+  public static MessageTemplateFormatter getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Returns the compiled {@link MessageTemplate} of the given pattern, compiling it on first use.
+   *
+   * @param pattern the ICU MessageFormat pattern
+   * @return the compiled {@link MessageTemplate}
+   * @throws IllegalArgumentException if the pattern is not valid
+   */
+  public MessageTemplate getTemplate(final String pattern) {
+    return templates.computeIfAbsent(pattern, MessageTemplate::compile);
+  }
+
+  /**
+   * Formats the given pattern for the given locale with the given arguments.
+   *
+   * @param pattern the ICU MessageFormat pattern
+   * @param locale the locale to format the message for
+   * @param args the arguments referenced by index in the pattern
+   * @return the formatted message as a {@link String}, or {@code null} if the pattern is {@code null}
+   * @throws IllegalArgumentException if the pattern is not valid
+   */
+  public String format(final String pattern, final Locale locale, final Object...args) {
+    if (isNull(pattern)) {
+      return null;
+    }
+    return getTemplate(pattern).format(locale, args);
+  }
+}
@@ -0,0 +1,312 @@
+package com.fleencorp.localizer.format;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A single-pass parser that compiles an ICU MessageFormat pattern into the {@link MessagePart} tree of a
+ * {@link MessageTemplate}.
+ *
+ * <p>The parser supports literal text with ICU apostrophe quoting, numbered {@code {n}} arguments,
+ * {@code {n, number[, integer|percent]}}, {@code {n, plural, [offset:x] [=x|keyword] {...} ...}}
+ * and {@code {n, select, keyword {...} ...}} arguments, and the {@code #} placeholder inside plural
+ * sub-messages. Any other syntax is rejected with an {@link IllegalArgumentException}.</p>
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+final class MessageTemplateParser {
+
+  private static final String OFFSET = "offset:";
+
+  private final String pattern;
+  private int position;
+
+  private MessageTemplateParser(final String pattern) {
+    this.pattern = pattern;
+  }
+
+  /**
+   * Parses the given pattern into the parts of a {@link MessageTemplate}.
+   *
+   * @param pattern the ICU MessageFormat pattern to parse
+   * @return the compiled parts of the pattern
+   * @throws IllegalArgumentException if the pattern is not valid
+   */
+  static MessagePart[] parse(final String pattern) {
+    return new MessageTemplateParser(pattern).parseMessage(0, false);
+  }
+
+  private MessagePart[] parseMessage(final int nestingLevel, final boolean inPlural) {
+    final List<MessagePart> parts = new ArrayList<>();
+    final StringBuilder text = new StringBuilder();
+
+    while (position < pattern.length()) {
+      final char c = pattern.charAt(position);
+
+      if (c == '\'') {
+        parseApostrophe(text, inPlural);
+      } else if (c == '{') {
+        flushText(text, parts);
+        position++;
+        parts.add(parseArgument(nestingLevel));
+      } else if (c == '}' && nestingLevel > 0) {
+        break;
+      } else if (c == '#' && inPlural) {
+        flushText(text, parts);
+        position++;
+        parts.add(new MessagePart.Pound());
+      } else {
+        text.append(c);
+        position++;
+      }
+    }
+
+    flushText(text, parts);
+    return parts.toArray(new MessagePart[0]);
+  }
+
+  private void parseApostrophe(final StringBuilder text, final boolean inPlural) {
+    final int next = position + 1;
+    if (next < pattern.length() && pattern.charAt(next) == '\'') {
+      text.append('\'');
+      position += 2;
+      return;
+    }
+
+    if (next < pattern.length() && isQuotable(pattern.charAt(next), inPlural)) {
+      position = next;
+      while (position < pattern.length()) {
+        final char c = pattern.charAt(position);
+        if (c == '\'') {
+          if (position + 1 < pattern.length() && pattern.charAt(position + 1) == '\'') {
+            text.append('\'');
+            position += 2;
+            continue;
+          }
+          position++;
+          return;
+        }
+        text.append(c);
+        position++;
+      }
+      return;
+    }
+
+    text.append('\'');
+    position++;
+  }
+
+  private static boolean isQuotable(final char c, final boolean inPlural) {
+    return c == '{' || c == '}' || c == '|' || (c == '#' && inPlural);
+  }
+
+  private MessagePart parseArgument(final int nestingLevel) {
+    skipWhitespace();
+    final int index = parseIndex();
+    skipWhitespace();
+
+    if (consume('}')) {
+      return new MessagePart.Argument(index);
+    }
+    expect(',');
+    skipWhitespace();
+    final String type = parseIdentifier();
+    skipWhitespace();
+
+    return switch (type) {
+      case "number" -> parseNumberArgument(index);
+      case "plural" -> {
+        expect(',');
+        yield parsePlural(index, nestingLevel);
+      }
+      case "select" -> {
+        expect(',');
+        yield parseSelect(index, nestingLevel);
+      }
+      default -> throw error("Unsupported argument type '" + type + "'");
+    };
+  }
+
+  private MessagePart parseNumberArgument(final int index) {
+    if (consume('}')) {
+      return new MessagePart.NumberArgument(index, MessagePart.NumberStyle.DEFAULT);
+    }
+    expect(',');
+    skipWhitespace();
+    final String style = parseIdentifier();
+    skipWhitespace();
+    expect('}');
+
+    return switch (style) {
+      case "integer" -> new MessagePart.NumberArgument(index, MessagePart.NumberStyle.INTEGER);
+      case "percent" -> new MessagePart.NumberArgument(index, MessagePart.NumberStyle.PERCENT);
+      default -> throw error("Unsupported number style '" + style + "'");
+    };
+  }
+
+  private MessagePart parsePlural(final int index, final int nestingLevel) {
+    final List<Double> explicitValues = new ArrayList<>();
+    final List<MessagePart[]> explicitParts = new ArrayList<>();
+    final MessagePart[][] categories = new MessagePart[PluralCategory.values().length][];
+    double offset = 0;
+
+    skipWhitespace();
+    if (pattern.startsWith(OFFSET, position)) {
+      position += OFFSET.length();
+      skipWhitespace();
+      offset = parseNumber();
+    }
+
+    while (true) {
+      skipWhitespace();
+      if (consume('}')) {
+        break;
+      }
+
+      if (consume('=')) {
+        final double value = parseNumber();
+        if (explicitValues.contains(value)) {
+          throw error("Duplicate keyword '=" + value + "'");
+        }
+        explicitValues.add(value);
+        explicitParts.add(parseSubMessage(nestingLevel, true));
+      } else {
+        final String keyword = parseIdentifier();
+        final PluralCategory category = PluralCategory.of(keyword);
+        if (isNull(category)) {
+          throw error("Unknown plural keyword '" + keyword + "'");
+        }
+        if (nonNull(categories[category.ordinal()])) {
+          throw error("Duplicate keyword '" + keyword + "'");
+        }
+        categories[category.ordinal()] = parseSubMessage(nestingLevel, true);
+      }
+    }
+
+    if (isNull(categories[PluralCategory.OTHER.ordinal()])) {
+      throw error("Plural argument " + index + " is missing the 'other' keyword");
+    }
+    final double[] values = explicitValues.stream().mapToDouble(Double::doubleValue).toArray();
+    return new MessagePart.Plural(index, offset, values, explicitParts.toArray(new MessagePart[0][]), categories);
+  }
+
+  private MessagePart parseSelect(final int index, final int nestingLevel) {
+    final Map<String, MessagePart[]> cases = new HashMap<>();
+
+    while (true) {
+      skipWhitespace();
+      if (consume('}')) {
+        break;
+      }
+      final String keyword = parseIdentifier();
+      if (cases.containsKey(keyword)) {
+        throw error("Duplicate keyword '" + keyword + "'");
+      }
+      cases.put(keyword, parseSubMessage(nestingLevel, false));
+    }
+
+    final MessagePart[] other = cases.remove("other");
+    if (isNull(other)) {
+      throw error("Select argument " + index + " is missing the 'other' keyword");
+    }
+    return new MessagePart.Select(index, Map.copyOf(cases), other);
+  }
+
+  private MessagePart[] parseSubMessage(final int nestingLevel, final boolean inPlural) {
+    skipWhitespace();
+    expect('{');
+    final MessagePart[] parts = parseMessage(nestingLevel + 1, inPlural);
+    expect('}');
+    return parts;
+  }
+
+  private int parseIndex() {
+    final int start = position;
+    int index = 0;
+    while (position < pattern.length() && isAsciiDigit(pattern.charAt(position))) {
+      final int digit = pattern.charAt(position) - '0';
+      if (index > (Integer.MAX_VALUE - digit) / 10) {
+        throw error("Argument index too large");
+      }
+      index = index * 10 + digit;
+      position++;
+    }
+    if (position == start) {
+      throw error("Expected a numeric argument index");
+    }
+    return index;
+  }
+
+  private double parseNumber() {
+    final int start = position;
+    while (position < pattern.length()) {
+      final char c = pattern.charAt(position);
+      if (!isAsciiDigit(c) && c != '.' && c != '-' && c != '+') {
+        break;
+      }
+      position++;
+    }
+    try {
+      return Double.parseDouble(pattern.substring(start, position));
+    } catch (final NumberFormatException ex) {
+      position = start;
+      throw error("Expected a number");
+    }
+  }
+
+  private String parseIdentifier() {
+    final int start = position;
+    while (position < pattern.length()) {
+      final char c = pattern.charAt(position);
+      if (Character.isWhitespace(c) || c == '{' || c == '}' || c == ',') {
+        break;
+      }
+      position++;
+    }
+    if (position == start) {
+      throw error("Expected an identifier");
+    }
+    return pattern.substring(start, position);
+  }
+
+  private static boolean isAsciiDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private void skipWhitespace() {
+    while (position < pattern.length() && Character.isWhitespace(pattern.charAt(position))) {
+      position++;
+    }
+  }
+
+  private boolean consume(final char c) {
+    if (position < pattern.length() && pattern.charAt(position) == c) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  private void expect(final char c) {
+    if (!consume(c)) {
+      throw error("Expected '" + c + "'");
+    }
+  }
+
+  private static void flushText(final StringBuilder text, final List<MessagePart> parts) {
+    if (!text.isEmpty()) {
+      parts.add(new MessagePart.Text(text.toString()));
+      text.setLength(0);
+    }
+  }
+
+  private IllegalArgumentException error(final String reason) {
+    return new IllegalArgumentException(reason + " at position " + position + " in pattern: " + pattern);
+  }
+}
@@ -0,0 +1,42 @@
+package com.fleencorp.localizer.format;
+
+/**
+ * The CLDR plural categories a number can fall into, as used by the keywords of a {@code plural} argument.
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+public enum PluralCategory {
+
+  ZERO("zero"),
+  ONE("one"),
+  TWO("two"),
+  FEW("few"),
+  MANY("many"),
+  OTHER("other");
+
+  private final String keyword;
+
+  PluralCategory(final String keyword) {
+    this.keyword = keyword;
+  }
+
+  public String getKeyword() {
+    return keyword;
+  }
+
+  /**
+   * Returns the {@link PluralCategory} matching the given keyword.
+   *
+   * @param keyword the keyword of the category, for example {@code one} or {@code other}
+   * @return the matching {@link PluralCategory}, or {@code null} if the keyword is not a plural category
+   */
+  public static PluralCategory of(final String keyword) {
+    for (final PluralCategory category : values()) {
+      if (category.keyword.equals(keyword)) {
+        return category;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,111 @@
+package com.fleencorp.localizer.format;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * The CLDR plural operands of a number, computed once and shared by every rule that is evaluated against it.
+ *
+ * <ul>
+ *   <li>{@code n} the absolute value of the number</li>
+ *   <li>{@code i} the integer digits of {@code n}</li>
+ *   <li>{@code v} the number of visible fraction digits of {@code n}</li>
+ *   <li>{@code f} the visible fraction digits of {@code n}, as an integer</li>
+ * </ul>
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+final class PluralOperands {
+
+  private static final BigInteger REDUCED_BASE = BigInteger.TEN.pow(18);
+
+  final double n;
+  final long i;
+  final int v;
+  final long f;
+  final boolean finite;
+
+  private PluralOperands(final double n, final long i, final int v, final long f, final boolean finite) {
+    this.n = n;
+    this.i = i;
+    this.v = v;
+    this.f = f;
+    this.finite = finite;
+  }
+
+  /**
+   * Indicates whether {@code n} has no visible fraction digits, which is required by the range conditions on {@code n}.
+   *
+   * @return {@code true} if the number is an integer, {@code false} otherwise
+   */
+  boolean isInteger() {
+    return finite && v == 0;
+  }
+
+  /**
+   * Computes the plural operands of the given number. Integral types are handled without allocation, while
+   * other numbers are converted to their shortest decimal representation with trailing zeros removed. The
+   * operands describe the number exactly as given, so a caller that renders the number with fewer fraction
+   * digits must round it first, as {@link MessagePart.Plural} does, for the category to match the rendered digits.
+   *
+   * <p>Digits beyond the range of a {@code long} are reduced to {@code 10^18} plus their last 18 digits, which
+   * keeps every modulo and small-value comparison used by the plural rules correct. Numbers that have no
+   * finite decimal representation select the {@code other} category.</p>
+   *
+   * @param number the number to compute the operands for
+   * @return the {@link PluralOperands} of the number
+   */
+  static PluralOperands of(final Number number) {
+    if (isIntegral(number) && number.longValue() != Long.MIN_VALUE) {
+      final long value = Math.abs(number.longValue());
+      return new PluralOperands(value, value, 0, 0, true);
+    }
+
+    final BigDecimal value = toBigDecimal(number);
+    if (isNull(value)) {
+      return new PluralOperands(number.doubleValue(), 0, 0, 0, false);
+    }
+
+    final BigDecimal decimal = value.abs().stripTrailingZeros();
+    final int visibleFractionDigits = Math.max(decimal.scale(), 0);
+    final BigInteger integerPart = decimal.setScale(0, RoundingMode.DOWN).toBigIntegerExact();
+    final BigInteger fractionDigits = decimal.subtract(new BigDecimal(integerPart))
+      .movePointRight(visibleFractionDigits)
+      .toBigInteger();
+
+    return new PluralOperands(decimal.doubleValue(), toLong(integerPart), visibleFractionDigits, toLong(fractionDigits), true);
+  }
+
+  static boolean isIntegral(final Number number) {
+    return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+      || number instanceof AtomicInteger || number instanceof AtomicLong;
+  }
+
+  private static long toLong(final BigInteger value) {
+    if (value.bitLength() < Long.SIZE) {
+      return value.longValue();
+    }
+    return REDUCED_BASE.longValue() + value.mod(REDUCED_BASE).longValue();
+  }
+
+  static BigDecimal toBigDecimal(final Number number) {
+    if (number instanceof BigDecimal decimal) {
+      return decimal;
+    }
+    if (number instanceof BigInteger integer) {
+      return new BigDecimal(integer);
+    }
+    try {
+      return new BigDecimal(number.toString());
+    } catch (final NumberFormatException ex) {
+      final double value = number.doubleValue();
+      return Double.isFinite(value) ? BigDecimal.valueOf(value) : null;
+    }
+  }
+}
@@ -0,0 +1,317 @@
+package com.fleencorp.localizer.format;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.fleencorp.localizer.format.PluralCategory.FEW;
+import static com.fleencorp.localizer.format.PluralCategory.MANY;
+import static com.fleencorp.localizer.format.PluralCategory.ONE;
+import static com.fleencorp.localizer.format.PluralCategory.OTHER;
+import static com.fleencorp.localizer.format.PluralCategory.TWO;
+import static com.fleencorp.localizer.format.PluralCategory.ZERO;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * The cardinal plural rules of a locale, following the CLDR plural rules.
+ *
+ * <p>Rules are precompiled into a table keyed by language, with regional variants such as {@code pt_PT}
+ * keyed by language and country. The table is built once, so resolving the rules of a {@link Locale} is at most
+ * two lookups in a fixed table, and selecting a category is a few arithmetic comparisons.
+ *
+ * <p>The table covers the following languages: af, am, ar, az, be, bg, bn, bs, ca, cs, cy, da, de, el, en, es, et,
+ * fa, fi, fil, fr, ga, gl, gu, ha, he, hi, hr, hu, id, is, it, ja, ka, kk, km, kn, ko, lo, lt, lv, mk, mr, ms, mt,
+ * my, nb, nl, nn, no, pl, pt, pt_PT, ro, ru, sk, sl, sq, sr, sv, sw, ta, te, th, tl, tr, uk, ur, vi, yo, zh and zu.
+ * Any other language uses the root rule, which maps every number to {@link PluralCategory#OTHER}, so messages
+ * in those languages only ever render their {@code other} or explicit {@code =x} selectors.</p>
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+public final class PluralRules {
+
+  private static final PluralRules ROOT = new PluralRules(operands -> OTHER);
+  private static final Map<String, PluralRules> RULES = createRules();
+
+  private final Rule rule;
+
+  private PluralRules(final Rule rule) {
+    this.rule = rule;
+  }
+
+  /**
+   * Selects the plural category of the given number.
+   *
+   * @param number the number to select the category for
+   * @return the {@link PluralCategory} of the number
+   */
+  public PluralCategory select(final Number number) {
+    return select(PluralOperands.of(number));
+  }
+
+  PluralCategory select(final PluralOperands operands) {
+    if (!operands.finite) {
+      return OTHER;
+    }
+    return rule.select(operands);
+  }
+
+  /**
+   * Returns the {@link PluralRules} of the given locale, falling back from language and country to language,
+   * and then to the root rule.
+   *
+   * @param locale the locale to return the plural rules for
+   * @return the {@link PluralRules} of the locale
+   */
+  public static PluralRules forLocale(final Locale locale) {
+    if (isNull(locale)) {
+      return ROOT;
+    }
+    final String language = locale.getLanguage();
+    final PluralRules regional = RULES.get(language + "_" + locale.getCountry());
+    if (nonNull(regional)) {
+      return regional;
+    }
+    return RULES.getOrDefault(language, ROOT);
+  }
+
+  private static Map<String, PluralRules> createRules() {
+    final Map<String, PluralRules> rules = new HashMap<>();
+
+    // one: i = 1 and v = 0
+    register(rules, o -> o.i == 1 && o.v == 0 ? ONE : OTHER,
+      "en", "de", "nl", "sv", "fi", "et", "gl", "ur", "sw");
+
+    // one: n = 1
+    register(rules, o -> o.n == 1 ? ONE : OTHER,
+      "nb", "no", "nn", "el", "hu", "tr", "bg", "ha", "af", "az", "ka", "kk", "sq", "ta", "te", "mr");
+
+    // one: i = 0 or n = 1
+    register(rules, o -> o.i == 0 || o.n == 1 ? ONE : OTHER,
+      "hi", "bn", "gu", "kn", "fa", "zu", "am");
+
+    // one: n = 1 or t != 0 and i = 0,1
+    register(rules, o -> o.n == 1 || (o.f != 0 && (o.i == 0 || o.i == 1)) ? ONE : OTHER,
+      "da");
+
+    // one: n = 1; many: e = 0 and i != 0 and i % 1000000 = 0 and v = 0
+    register(rules, o -> o.n == 1 ? ONE : isMillions(o) ? MANY : OTHER,
+      "es");
+
+    // one: i = 1 and v = 0; many: e = 0 and i != 0 and i % 1000000 = 0 and v = 0
+    register(rules, o -> o.i == 1 && o.v == 0 ? ONE : isMillions(o) ? MANY : OTHER,
+      "it", "ca", "pt_PT");
+
+    // one: i = 0,1; many: e = 0 and i != 0 and i % 1000000 = 0 and v = 0
+    register(rules, o -> o.i == 0 || o.i == 1 ? ONE : isMillions(o) ? MANY : OTHER,
+      "fr", "pt");
+
+    // one: v = 0 and i % 10 = 1 and i % 100 != 11; few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14;
+    // many: v = 0 and (i % 10 = 0 or i % 10 = 5..9 or i % 100 = 11..14)
+    register(rules, PluralRules::eastSlavic,
+      "ru", "uk", "be");
+
+    // one: i = 1 and v = 0; few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14;
+    // many: v = 0 and (i != 1 and i % 10 = 0..1 or i % 10 = 5..9 or i % 100 = 12..14)
+    register(rules, PluralRules::polish,
+      "pl");
+
+    // one: i = 1 and v = 0; few: i = 2..4 and v = 0; many: v != 0
+    register(rules, o -> o.v != 0 ? MANY : o.i == 1 ? ONE : o.i >= 2 && o.i <= 4 ? FEW : OTHER,
+      "cs", "sk");
+
+    // zero: n = 0; one: n = 1; two: n = 2; few: n % 100 = 3..10; many: n % 100 = 11..99
+    register(rules, PluralRules::arabic,
+      "ar");
+
+    // one: i = 1 and v = 0 or i = 0 and v != 0; two: i = 2 and v = 0
+    register(rules, o -> o.v == 0 ? (o.i == 1 ? ONE : o.i == 2 ? TWO : OTHER) : (o.i == 0 ? ONE : OTHER),
+      "he", "iw");
+
+    // one: i = 1 and v = 0; few: v != 0 or n = 0 or n != 1 and n % 100 = 1..19
+    register(rules, o -> o.i == 1 && o.v == 0 ? ONE : o.v != 0 || o.i == 0 || inRange(o.i % 100, 1, 19) ? FEW : OTHER,
+      "ro", "mo");
+
+    // one: v = 0 and i % 10 = 1 and i % 100 != 11 or f % 10 = 1 and f % 100 != 11;
+    // few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14 or f % 10 = 2..4 and f % 100 != 12..14
+    register(rules, PluralRules::serboCroatian,
+      "hr", "sr", "bs", "sh");
+
+    // one: v = 0 and i % 100 = 1; two: v = 0 and i % 100 = 2; few: v = 0 and i % 100 = 3..4 or v != 0
+    register(rules, o -> o.v != 0 ? FEW : o.i % 100 == 1 ? ONE : o.i % 100 == 2 ? TWO : inRange(o.i % 100, 3, 4) ? FEW : OTHER,
+      "sl");
+
+    // one: n % 10 = 1 and n % 100 != 11..19; few: n % 10 = 2..9 and n % 100 != 11..19; many: f != 0
+    register(rules, PluralRules::lithuanian,
+      "lt");
+
+    // zero: n % 10 = 0 or n % 100 = 11..19 or v = 2 and f % 100 = 11..19;
+    // one: n % 10 = 1 and n % 100 != 11 or v = 2 and f % 10 = 1 and f % 100 != 11 or v != 2 and f % 10 = 1
+    register(rules, PluralRules::latvian,
+      "lv");
+
+    // one: v = 0 and i % 10 = 1 and i % 100 != 11 or f % 10 = 1 and f % 100 != 11
+    register(rules, o -> (o.v == 0 && endsWithOne(o.i)) || endsWithOne(o.f) ? ONE : OTHER,
+      "mk");
+
+    // one: t = 0 and i % 10 = 1 and i % 100 != 11 or t % 10 = 1 and t % 100 != 11
+    register(rules, o -> (o.f == 0 && endsWithOne(o.i)) || endsWithOne(o.f) ? ONE : OTHER,
+      "is");
+
+    // one: n = 1; two: n = 2; few: n = 3..6; many: n = 7..10
+    register(rules, o -> !o.isInteger() ? OTHER
+        : o.i == 1 ? ONE : o.i == 2 ? TWO : inRange(o.i, 3, 6) ? FEW : inRange(o.i, 7, 10) ? MANY : OTHER,
+      "ga");
+
+    // zero: n = 0; one: n = 1; two: n = 2; few: n = 3; many: n = 6
+    register(rules, o -> !o.isInteger() ? OTHER
+        : o.i == 0 ? ZERO : o.i == 1 ? ONE : o.i == 2 ? TWO : o.i == 3 ? FEW : o.i == 6 ? MANY : OTHER,
+      "cy");
+
+    // one: v = 0 and i = 1,2,3 or v = 0 and i % 10 != 4,6,9 or v != 0 and f % 10 != 4,6,9
+    register(rules, o -> (o.v == 0 && inRange(o.i, 1, 3)) || !isFourSixOrNine(o.v == 0 ? o.i % 10 : o.f % 10) ? ONE : OTHER,
+      "fil", "tl");
+
+    // one: n = 1; two: n = 2; few: n = 0 or n % 100 = 3..10; many: n % 100 = 11..19
+    register(rules, o -> !o.isInteger() ? OTHER
+        : o.i == 1 ? ONE : o.i == 2 ? TWO : o.i == 0 || inRange(o.i % 100, 3, 10) ? FEW : inRange(o.i % 100, 11, 19) ? MANY : OTHER,
+      "mt");
+
+    // other only
+    register(rules, o -> OTHER,
+      "ja", "zh", "ko", "vi", "th", "id", "in", "ms", "km", "lo", "my", "yo");
+
+    return Map.copyOf(rules);
+  }
+
+  private static void register(final Map<String, PluralRules> rules, final Rule rule, final String...locales) {
+    final PluralRules pluralRules = new PluralRules(rule);
+    for (final String locale : locales) {
+      rules.put(locale, pluralRules);
+    }
+  }
+
+  private static boolean inRange(final long value, final long from, final long to) {
+    return value >= from && value <= to;
+  }
+
+  private static boolean endsWithOne(final long value) {
+    return value % 10 == 1 && value % 100 != 11;
+  }
+
+  private static boolean isFourSixOrNine(final long digit) {
+    return digit == 4 || digit == 6 || digit == 9;
+  }
+
+  private static boolean isMillions(final PluralOperands o) {
+    return o.v == 0 && o.i != 0 && o.i % 1_000_000 == 0;
+  }
+
+  private static PluralCategory eastSlavic(final PluralOperands o) {
+    if (o.v != 0) {
+      return OTHER;
+    }
+    final long mod10 = o.i % 10;
+    final long mod100 = o.i % 100;
+    if (mod10 == 1 && mod100 != 11) {
+      return ONE;
+    }
+    if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) {
+      return FEW;
+    }
+    return MANY;
+  }
+
+  private static PluralCategory serboCroatian(final PluralOperands o) {
+    if ((o.v == 0 && endsWithOne(o.i)) || endsWithOne(o.f)) {
+      return ONE;
+    }
+    if ((o.v == 0 && isFew(o.i)) || isFew(o.f)) {
+      return FEW;
+    }
+    return OTHER;
+  }
+
+  private static boolean isFew(final long value) {
+    return inRange(value % 10, 2, 4) && !inRange(value % 100, 12, 14);
+  }
+
+  private static PluralCategory lithuanian(final PluralOperands o) {
+    if (o.f != 0) {
+      return MANY;
+    }
+    final long mod10 = o.i % 10;
+    final boolean teen = inRange(o.i % 100, 11, 19);
+    if (mod10 == 1 && !teen) {
+      return ONE;
+    }
+    if (inRange(mod10, 2, 9) && !teen) {
+      return FEW;
+    }
+    return OTHER;
+  }
+
+  private static PluralCategory latvian(final PluralOperands o) {
+    if (o.v == 0) {
+      if (o.i % 10 == 0 || inRange(o.i % 100, 11, 19)) {
+        return ZERO;
+      }
+      return endsWithOne(o.i) ? ONE : OTHER;
+    }
+    if (o.v == 2 && inRange(o.f % 100, 11, 19)) {
+      return ZERO;
+    }
+    if ((o.v == 2 && endsWithOne(o.f)) || (o.v != 2 && o.f % 10 == 1)) {
+      return ONE;
+    }
+    return OTHER;
+  }
+
+  private static PluralCategory polish(final PluralOperands o) {
+    if (o.v != 0) {
+      return OTHER;
+    }
+    if (o.i == 1) {
+      return ONE;
+    }
+    final long mod10 = o.i % 10;
+    final long mod100 = o.i % 100;
+    if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) {
+      return FEW;
+    }
+    return MANY;
+  }
+
+  private static PluralCategory arabic(final PluralOperands o) {
+    if (!o.isInteger()) {
+      return OTHER;
+    }
+    if (o.i == 0) {
+      return ZERO;
+    }
+    if (o.i == 1) {
+      return ONE;
+    }
+    if (o.i == 2) {
+      return TWO;
+    }
+    final long mod100 = o.i % 100;
+    if (mod100 >= 3 && mod100 <= 10) {
+      return FEW;
+    }
+    if (mod100 >= 11) {
+      return MANY;
+    }
+    return OTHER;
+  }
+
+  /**
+   * A compiled plural rule that maps the operands of a number to a {@link PluralCategory}.
+   */
+  @FunctionalInterface
+  interface Rule {
+
+    PluralCategory select(PluralOperands operands);
+  }
+}
@@ -0,0 +1,65 @@
+package com.fleencorp.localizer.model.response;
+
+import com.fleencorp.localizer.service.Localizer;
+
+import java.util.Locale;
+
+/**
+ * A message whose resolution is postponed until it is first read.
+ *
+ * <p>The holder captures everything needed to resolve the message later, namely the {@link Localizer},
+ * the message code, the parameters and the locale in effect when it was created. The message is resolved
+ * at most once, on the first call to {@link #get()}, and the result is reused for every subsequent call.
+ * Resolution is thread-safe, so the holder can be created on a request thread and read on the thread
+ * that eventually writes the response.</p>
+ *
+ * @author Yusuf Àlàmu Musa
+ * @version 1.0
+ */
+public final class DeferredMessage {
+
+  private final Localizer localizer;
+  private final String messageCode;
+  private final Object[] params;
+  private final Locale locale;
+
+  private volatile String message;
+  private volatile boolean resolved;
+
+  private DeferredMessage(final Localizer localizer, final String messageCode, final Object[] params, final Locale locale) {
+    this.localizer = localizer;
+    this.messageCode = messageCode;
+    this.params = params;
+    this.locale = locale;
+  }
+
+  /**
+   * Returns the resolved message, resolving it through the captured {@link Localizer} on first access.
+   *
+   * @return the resolved message as a {@link String}
+   */
+  public String get() {
+    if (!resolved) {
+      synchronized (this) {
+        if (!resolved) {
+          message = localizer.getMessage(messageCode, locale, params);
+          resolved = true;
+        }
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Creates a {@link DeferredMessage} that will resolve the given message code with the given parameters and locale.
+   *
+   * @param localizer the {@link Localizer} used to resolve the message
+   * @param messageCode the message code to resolve
+   * @param params the parameters to be used within the message if applicable
+   * @param locale the locale to resolve the message for
+   * @return a new unresolved {@link DeferredMessage}
+   */
+  public static DeferredMessage of(final Localizer localizer, final String messageCode, final Object[] params, final Locale locale) {
+    return new DeferredMessage(localizer, messageCode, params, locale);
+  }
+}
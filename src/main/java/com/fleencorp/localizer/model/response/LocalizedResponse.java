@@ -3,9 +3,12 @@ package com.fleencorp.localizer.model.response;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import static java.util.Objects.nonNull;
+
 public abstract class LocalizedResponse {
 
   protected String message;
+  protected DeferredMessage deferredMessage;
 
   @JsonIgnore
   public abstract String getMessageCode();
@@ -15,12 +18,28 @@ public abstract class LocalizedResponse {
     return new Object[] {};
   }
 
+  /**
+   * Returns the message of this response. If a {@link DeferredMessage} has been set, the message is
+   * resolved on first access, typically when the response is serialized, and reused afterwards.
+   *
+   * @return the message of this response
+   */
   @JsonProperty("message")
   public String getMessage() {
+    final DeferredMessage deferred = deferredMessage;
+    if (nonNull(deferred)) {
+      return deferred.get();
+    }
     return message;
   }
 
   public void setMessage(final String message) {
     this.message = message;
+    this.deferredMessage = null;
+  }
+
+  @JsonIgnore
+  public void setDeferredMessage(final DeferredMessage deferredMessage) {
+    this.deferredMessage = deferredMessage;
   }
 }
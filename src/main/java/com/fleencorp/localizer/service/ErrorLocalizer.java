@@ -4,11 +4,52 @@ import com.fleencorp.localizer.model.exception.LocalizedException;
 import com.fleencorp.localizer.model.response.ErrorResponse;
 import jakarta.ws.rs.core.Response;
 
+import static java.util.Objects.nonNull;
+
 public interface ErrorLocalizer extends Localizer {
 
   <T extends LocalizedException> T of(T ex);
 
+  /**
+   * Sets the error message in the provided {@link LocalizedException} object based on its message code, formatting it
+   * as an ICU MessageFormat pattern with the exception's parameters as arguments.
+   * If the exception and its message code are not null, the method retrieves the corresponding error message
+   * and sets it in the exception.
+   *
+   * @param <T> the type of {@link LocalizedException}
+   * @param ex the {@link LocalizedException} object to set the error message for
+   * @return the updated {@link LocalizedException} with the resolved error message, or {@code null} if the exception is {@code null}
+   * @see #getIcuMessage(String, java.util.Locale, Object...)
+   */
+  default <T extends LocalizedException> T ofIcu(final T ex) {
+    if (nonNull(ex) && nonNull(ex.getMessageCode())) {
+      final String message = getIcuMessage(ex.getMessageCode(), ex.getParams());
+      ex.setMessage(message);
+    }
+    return ex;
+  }
+
   <T extends LocalizedException> ErrorResponse withStatus(T ex, Response.Status status);
 
   <T extends LocalizedException> ErrorResponse withStatus(String messageCode, Response.Status status);
+
+  /**
+   * Creates an {@link ErrorResponse} based on the provided {@link LocalizedException} and HTTP status, formatting the
+   * error message as an ICU MessageFormat pattern with the exception's parameters as arguments.
+   * If the exception and its message code are not null, the method retrieves the corresponding error message
+   * and creates an {@link ErrorResponse} with the message, status, and additional details from the exception.
+   *
+   * @param <T> the type of {@link LocalizedException}
+   * @param ex the {@link LocalizedException} object to create the error response for
+   * @param status the HTTP status to associate with the error response
+   * @return an {@link ErrorResponse} with the resolved error message and status, or a default {@link ErrorResponse} if the exception or message code is {@code null}
+   * @see #getIcuMessage(String, java.util.Locale, Object...)
+   */
+  default <T extends LocalizedException> ErrorResponse withIcuStatus(final T ex, final Response.Status status) {
+    if (nonNull(ex) && nonNull(ex.getMessageCode())) {
+      final String message = getIcuMessage(ex.getMessageCode(), ex.getParams());
+      return ErrorResponse.of(message, status, ex.getExeptionTypeCode(), ex.getDetails());
+    }
+    return ErrorResponse.of();
+  }
 }
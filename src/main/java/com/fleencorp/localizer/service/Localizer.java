@@ -1,20 +1,132 @@
 package com.fleencorp.localizer.service;
 
+import com.fleencorp.localizer.format.MessageTemplateFormatter;
+import com.fleencorp.localizer.model.response.DeferredMessage;
 import com.fleencorp.localizer.model.response.LocalizedResponse;
+import org.springframework.context.i18n.LocaleContextHolder;
 
 import java.util.Locale;
 import java.util.function.Supplier;
 
+import static java.util.Objects.nonNull;
+
 public interface Localizer {
 
   String getMessage(String key, Locale locale, Object...params);
 
   String getMessage(String key, Object...params);
 
+  /**
+   * Retrieves a message and formats it as an ICU MessageFormat pattern, resolving it based on the provided key,
+   * locale, and optional parameters. Unlike {@link #getMessage(String, Locale, Object...)}, the pattern may contain
+   * {@code plural} and {@code select} arguments. Each distinct pattern is compiled once by the
+   * {@link #getTemplateFormatter() template formatter} and reused.
+   *
+   * <p>The raw pattern is retrieved through {@link #getMessage(String, Locale, Object...)} without parameters.
+   * A Spring {@link org.springframework.context.MessageSource} returns the message unformatted in that case, unless
+   * it is configured to always apply {@link java.text.MessageFormat}, for example through
+   * {@code setAlwaysUseMessageFormat(true)}, which must not be used for the keys used with this method.</p>
+   *
+   * @param key the message key to retrieve the message for
+   * @param locale the locale to resolve the message for
+   * @param params optional parameters to be used within the message if applicable
+   * @return the resolved message as a {@link String}
+   * @throws IllegalArgumentException if the message is not a valid ICU MessageFormat pattern
+   */
+  default String getIcuMessage(final String key, final Locale locale, final Object...params) {
+    final String pattern = getMessage(key, locale, new Object[] {});
+    return getTemplateFormatter().format(pattern, locale, params);
+  }
+
+  /**
+   * Retrieves a message and formats it as an ICU MessageFormat pattern, resolving it based on the provided key
+   * and optional parameters, using the current locale from the {@link LocaleContextHolder}.
+   *
+   * @param key the message key to retrieve the message for
+   * @param params optional parameters to be used within the message if applicable
+   * @return the resolved message as a {@link String}
+   * @throws IllegalArgumentException if the message is not a valid ICU MessageFormat pattern
+   * @see #getIcuMessage(String, Locale, Object...)
+   */
+  default String getIcuMessage(final String key, final Object...params) {
+    return getIcuMessage(key, LocaleContextHolder.getLocale(), params);
+  }
+
+  /**
+   * Returns the {@link MessageTemplateFormatter} used to compile and cache ICU message templates.
+   *
+   * @return the {@link MessageTemplateFormatter} used by {@link #getIcuMessage(String, Locale, Object...)}
+   */
+  default MessageTemplateFormatter getTemplateFormatter() {
+    return MessageTemplateFormatter.getDefault();
+  }
+
   <T extends LocalizedResponse> T of(T response);
 
   <T extends LocalizedResponse> T of(T response, String messageCode);
 
+  /**
+   * Defers the resolution of the message of the provided {@link LocalizedResponse} until it is first read.
+   * If the response and its message code are not null, the method captures the message code, the response's
+   * parameters and the current locale from the {@link LocaleContextHolder} in a {@link DeferredMessage}.
+   * The message is then resolved exactly once when {@link LocalizedResponse#getMessage()} is called,
+   * typically when the response is serialized, and never if the response is not written.
+   *
+   * <p>Because the message is resolved during serialization, after the controller has returned, a missing message
+   * code is not reported by this method. The {@link org.springframework.context.NoSuchMessageException} is thrown
+   * while the response is written, where Jackson wraps it in a
+   * {@link com.fasterxml.jackson.databind.JsonMappingException}, so it is not handled by exception handlers
+   * that only handle exceptions thrown by the controller.</p>
+   *
+   * @param <T> the type of {@link LocalizedResponse}
+   * @param response the {@link LocalizedResponse} object to defer the message for
+   * @return the {@link LocalizedResponse} with a deferred message, or {@code null} if the response is {@code null}
+   */
+  default <T extends LocalizedResponse> T ofLazy(final T response) {
+    if (nonNull(response)) {
+      return ofLazy(response, response.getMessageCode());
+    }
+    return null;
+  }
+
+  /**
+   * Defers the resolution of the message of the provided {@link LocalizedResponse} until it is first read,
+   * using the provided message code instead of the response's own message code.
+   * If the response and message code are not null, the method captures the message code, the response's
+   * parameters and the current locale from the {@link LocaleContextHolder} in a {@link DeferredMessage}.
+   *
+   * @param <T> the type of {@link LocalizedResponse}
+   * @param response the {@link LocalizedResponse} object to defer the message for
+   * @param messageCode the message code to resolve the message
+   * @return the {@link LocalizedResponse} with a deferred message, or {@code null} if the response is {@code null}
+   */
+  default <T extends LocalizedResponse> T ofLazy(final T response, final String messageCode) {
+    if (nonNull(response) && nonNull(messageCode)) {
+      final DeferredMessage deferredMessage = DeferredMessage.of(this, messageCode, response.getParams(), LocaleContextHolder.getLocale());
+      response.setDeferredMessage(deferredMessage);
+    }
+    return response;
+  }
+
+  /**
+   * Sets the message in the provided {@link LocalizedResponse} object based on its message code, formatting it
+   * as an ICU MessageFormat pattern with the response's parameters as arguments.
+   * If the response and its message code are not null, the method retrieves the corresponding message
+   * and sets it in the response.
+   *
+   * @param <T> the type of {@link LocalizedResponse}
+   * @param response the {@link LocalizedResponse} object to set the message for
+   * @return the updated {@link LocalizedResponse} with the resolved message, or {@code null} if the response is {@code null}
+   * @see #getIcuMessage(String, Locale, Object...)
+   */
+  default <T extends LocalizedResponse> T ofIcu(final T response) {
+    if (nonNull(response) && nonNull(response.getMessageCode())) {
+      final String message = getIcuMessage(response.getMessageCode(), response.getParams());
+      response.setMessage(message);
+    }
+    return response;
+  }
+
   <T extends LocalizedResponse> Supplier<T> of(Supplier<T> responseSupplier);
 
   String of(String messageCode);
@@ -1,5 +1,6 @@
 package com.fleencorp.localizer.service.adapter;
 
+import com.fleencorp.localizer.format.MessageTemplateFormatter;
 import org.springframework.context.MessageSource;
 
 public class DefaultLocalizerAdapter extends LocalizerAdapter implements DefaultLocalizer {
@@ -7,4 +8,8 @@ public class DefaultLocalizerAdapter extends LocalizerAdapter implements Default
   public DefaultLocalizerAdapter(final MessageSource messageSource) {
     super(messageSource);
   }
+
+  public DefaultLocalizerAdapter(final MessageSource messageSource, final MessageTemplateFormatter templateFormatter) {
+    super(messageSource, templateFormatter);
+  }
 }
@@ -1,5 +1,6 @@
 package com.fleencorp.localizer.service.adapter;
 
+import com.fleencorp.localizer.format.MessageTemplateFormatter;
 import com.fleencorp.localizer.model.exception.LocalizedException;
 import com.fleencorp.localizer.model.response.ErrorResponse;
 import com.fleencorp.localizer.service.ErrorLocalizer;
@@ -24,6 +25,10 @@ public class ErrorLocalizerAdapter extends LocalizerAdapter implements ErrorLoca
     super(messageSource);
   }
 
+  public ErrorLocalizerAdapter(final MessageSource messageSource, final MessageTemplateFormatter templateFormatter) {
+    super(messageSource, templateFormatter);
+  }
+
   /**
    * Sets the error message in the provided {@link LocalizedException} object based on its message code.
    * If the exception and its message code are not null, the method retrieves the corresponding error message
@@ -1,5 +1,6 @@
 package com.fleencorp.localizer.service.adapter;
 
+import com.fleencorp.localizer.format.MessageTemplateFormatter;
 import com.fleencorp.localizer.model.response.LocalizedResponse;
 import com.fleencorp.localizer.service.Localizer;
 import org.springframework.context.MessageSource;
@@ -21,9 +22,26 @@ import static java.util.Objects.nonNull;
 public class LocalizerAdapter implements Localizer {
 
   private final MessageSource messageSource;
+  private final MessageTemplateFormatter templateFormatter;
 
   public LocalizerAdapter(final MessageSource messageSource) {
+    this(messageSource, new MessageTemplateFormatter());
+  }
+
+  public LocalizerAdapter(final MessageSource messageSource, final MessageTemplateFormatter templateFormatter) {
     this.messageSource = messageSource;
+    this.templateFormatter = templateFormatter;
+  }
+
+  /**
+   * Returns the {@link MessageTemplateFormatter} this adapter was created with, so that compiled ICU message
+   * templates are cached per adapter.
+   *
+   * @return the {@link MessageTemplateFormatter} used to format ICU messages
+   */
+  @Override
+  public MessageTemplateFormatter getTemplateFormatter() {
+    return templateFormatter;
   }
 
   /**
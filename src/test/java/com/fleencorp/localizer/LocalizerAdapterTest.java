@@ -1,5 +1,6 @@
 package com.fleencorp.localizer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fleencorp.localizer.model.exception.ApiException;
 import com.fleencorp.localizer.model.response.ApiResponse;
 import com.fleencorp.localizer.model.response.ErrorResponse;
@@ -12,7 +13,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.StaticMessageSource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -22,10 +31,12 @@ class LocalizerAdapterTest {
 
   private LocalizerAdapter localizerAdapter;
   private ErrorLocalizerAdapter errorLocalizerAdapter;
+  private StaticMessageSource messageSource;
+  private AtomicInteger resolutionCount;
 
   @BeforeEach
   void setUp() {
-    final StaticMessageSource messageSource = new StaticMessageSource();
+    messageSource = new StaticMessageSource();
     LocaleContextHolder.setLocale(Locale.US);
 
     // Define messages in message sources
@@ -33,12 +44,26 @@ class LocalizerAdapterTest {
     messageSource.addMessage("response.key", Locale.US, "Response Message");
     messageSource.addMessage("response2.key", Locale.US, "Response Message {0}");
     messageSource.addMessage("error.key", Locale.US, "Error Message");
+    messageSource.addMessage("response2.key", Locale.FRANCE, "Message de réponse {0}");
+    messageSource.addMessage("files.key", Locale.US, "{0} uploaded {1, plural, =0 {no files} one {# file} other {# files}}");
+    messageSource.addMessage("quota.key", Locale.US, "{0, select, daily {Daily} other {Monthly}} quota exceeded by {1, plural, one {# request} other {# requests}}");
 
     // Initialize the LocalizerAdapter
     localizerAdapter = new LocalizerAdapter(messageSource);
     errorLocalizerAdapter = new ErrorLocalizerAdapter(messageSource);
   }
 
+  private LocalizerAdapter countingLocalizerAdapter() {
+    resolutionCount = new AtomicInteger();
+    return new LocalizerAdapter(messageSource) {
+      @Override
+      public String getMessage(final String key, final Locale locale, final Object...params) {
+        resolutionCount.incrementAndGet();
+        return super.getMessage(key, locale, params);
+      }
+    };
+  }
+
   @Test
   @DisplayName("Get a message with a locale")
   void testGetMessageWithLocale() {
@@ -165,5 +190,184 @@ class LocalizerAdapterTest {
     assertEquals("Response Message", localizedResponse.getMessage());
   }
 
-}
+  @Test
+  @DisplayName("Defer a response message until it is read")
+  void testOfLazyResolvesOnFirstAccessOnly() {
+    LocalizerAdapter countingLocalizerAdapter = countingLocalizerAdapter();
+    ApiResponse response = new ApiResponse() {
+
+      @Override
+      public String getMessageCode() {
+        return "response2.key";
+      }
+
+      @Override
+      public Object[] getParams() {
+        return new Object[] { "Two" };
+      }
+    };
+
+    ApiResponse result = countingLocalizerAdapter.ofLazy(response);
+
+    assertNotNull(result);
+    assertEquals(0, resolutionCount.get());
+    assertEquals("Response Message Two", result.getMessage());
+    assertEquals("Response Message Two", result.getMessage());
+    assertEquals(1, resolutionCount.get());
+  }
+
+  @Test
+  @DisplayName("Resolve a deferred response message with the locale captured when it was deferred")
+  void testOfLazyUsesCapturedLocale() {
+    ApiResponse response = new ApiResponse() {
+
+      @Override
+      public String getMessageCode() {
+        return "response.key";
+      }
+
+      @Override
+      public Object[] getParams() {
+        return new Object[] { "Deux" };
+      }
+    };
+
+    LocaleContextHolder.setLocale(Locale.FRANCE);
+    ApiResponse result = localizerAdapter.ofLazy(response, "response2.key");
+    LocaleContextHolder.setLocale(Locale.US);
+
+    assertEquals("Message de réponse Deux", result.getMessage());
+  }
+
+  @Test
+  @DisplayName("Resolve a deferred response message when it is serialized")
+  void testOfLazyResolvesOnSerialization() throws Exception {
+    LocalizerAdapter countingLocalizerAdapter = countingLocalizerAdapter();
+    ApiResponse response = new ApiResponse() {
+
+      @Override
+      public String getMessageCode() {
+        return "response.key";
+      }
+    };
+
+    ApiResponse result = countingLocalizerAdapter.ofLazy(response);
+    assertEquals(0, resolutionCount.get());
+
+    String json = new ObjectMapper().writeValueAsString(result);
+
+    assertEquals("{\"message\":\"Response Message\"}", json);
+    assertEquals(1, resolutionCount.get());
+  }
+
+  @Test
+  @DisplayName("Set message replaces a deferred response message")
+  void testSetMessageReplacesDeferredMessage() {
+    LocalizerAdapter countingLocalizerAdapter = countingLocalizerAdapter();
+    ApiResponse response = new ApiResponse() {
+
+      @Override
+      public String getMessageCode() {
+        return "response.key";
+      }
+    };
+
+    ApiResponse result = countingLocalizerAdapter.ofLazy(response);
+    result.setMessage("Explicit Message");
+
+    assertEquals("Explicit Message", result.getMessage());
+    assertEquals(0, resolutionCount.get());
+  }
+
+  @Test
+  @DisplayName("Resolve a deferred response message once when it is read concurrently")
+  void testOfLazyResolvesOnceAcrossThreads() throws Exception {
+    LocalizerAdapter countingLocalizerAdapter = countingLocalizerAdapter();
+    ApiResponse response = new ApiResponse() {
+
+      @Override
+      public String getMessageCode() {
+        return "response.key";
+      }
+    };
+
+    ApiResponse result = countingLocalizerAdapter.ofLazy(response);
+
+    int threads = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<String>> messages = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        messages.add(executor.submit(() -> {
+          start.await();
+          return result.getMessage();
+        }));
+      }
+      start.countDown();
+
+      for (Future<String> message : messages) {
+        assertEquals("Response Message", message.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, resolutionCount.get());
+  }
 
+  @Test
+  @DisplayName("Get an ICU message with plural arguments")
+  void testGetIcuMessage() {
+    assertEquals("Ada uploaded no files", localizerAdapter.getIcuMessage("files.key", "Ada", 0));
+    assertEquals("Ada uploaded 1 file", localizerAdapter.getIcuMessage("files.key", Locale.US, "Ada", 1));
+    assertEquals("Ada uploaded 12 files", localizerAdapter.getIcuMessage("files.key", "Ada", 12));
+  }
+
+  @Test
+  @DisplayName("Get a response ICU message with parameters")
+  void testOfIcuResponse() {
+    ApiResponse response = new ApiResponse() {
+
+      @Override
+      public String getMessageCode() {
+        return "files.key";
+      }
+
+      @Override
+      public Object[] getParams() {
+        return new Object[] { "Ada", 3 };
+      }
+    };
+
+    ApiResponse result = localizerAdapter.ofIcu(response);
+
+    assertNotNull(result);
+    assertEquals("Ada uploaded 3 files", result.getMessage());
+  }
+
+  @Test
+  @DisplayName("Get Error Response with an ICU message and status")
+  void testWithIcuStatus() {
+    ApiException ex = new ApiException() {
+
+      @Override
+      public String getMessageCode() {
+        return "quota.key";
+      }
+
+      @Override
+      public Object[] getParams() {
+        return new Object[] { "daily", 1 };
+      }
+    };
+
+    ErrorResponse result = errorLocalizerAdapter.withIcuStatus(ex, Response.Status.TOO_MANY_REQUESTS);
+
+    assertNotNull(result);
+    assertEquals("Daily quota exceeded by 1 request", result.getMessage());
+    assertEquals(Response.Status.TOO_MANY_REQUESTS.getStatusCode(), result.getStatus());
+    assertEquals("Daily quota exceeded by 1 request", errorLocalizerAdapter.ofIcu(ex).getMessage());
+  }
+
+}
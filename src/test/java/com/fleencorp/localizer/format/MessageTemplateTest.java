@@ -0,0 +1,218 @@
+package com.fleencorp.localizer.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MessageTemplateTest {
+
+  private static final String MESSAGES =
+    "You have {0, plural, =0 {no messages} one {# message} other {# messages}}.";
+
+  @Test
+  @DisplayName("Render text and numbered arguments")
+  void testSimpleArguments() {
+    MessageTemplate template = MessageTemplate.compile("Hello {0}, you have {1} points");
+
+    assertEquals("Hello Ada, you have 1,500 points", template.format(Locale.US, "Ada", 1500));
+    assertEquals("Hello {0}, you have {1} points", template.format(Locale.US));
+  }
+
+  @Test
+  @DisplayName("Resolve apostrophe quoting")
+  void testQuoting() {
+    MessageTemplate template = MessageTemplate.compile("It''s '{0}' and {0}'s");
+
+    assertEquals("It's {0} and Ada's", template.format(Locale.US, "Ada"));
+  }
+
+  @Test
+  @DisplayName("Render plural arguments with explicit values and keywords")
+  void testPlural() {
+    MessageTemplate template = MessageTemplate.compile(MESSAGES);
+
+    assertEquals("You have no messages.", template.format(Locale.US, 0));
+    assertEquals("You have 1 message.", template.format(Locale.US, 1));
+    assertEquals("You have 1,200 messages.", template.format(Locale.US, 1200));
+    assertEquals("You have 1.5 messages.", template.format(Locale.US, 1.5));
+  }
+
+  @Test
+  @DisplayName("Render plural arguments with an offset")
+  void testPluralOffset() {
+    MessageTemplate template = MessageTemplate.compile(
+      "{0, plural, offset:1 =0 {Nobody} =1 {Only you} one {You and # other} other {You and # others}}");
+
+    assertEquals("Nobody", template.format(Locale.US, 0));
+    assertEquals("Only you", template.format(Locale.US, 1));
+    assertEquals("You and 1 other", template.format(Locale.US, 2));
+    assertEquals("You and 4 others", template.format(Locale.US, 5));
+  }
+
+  @Test
+  @DisplayName("Select plural categories with the rules of the locale")
+  void testPluralRulesOfLocale() {
+    MessageTemplate template = MessageTemplate.compile(
+      "{0, plural, one {# файл} few {# файла} many {# файлов} other {# файла}}");
+
+    Locale russian = Locale.forLanguageTag("ru");
+    assertEquals("1 файл", template.format(russian, 1));
+    assertEquals("3 файла", template.format(russian, 3));
+    assertEquals("11 файлов", template.format(russian, 11));
+    assertEquals("21 файл", template.format(russian, 21));
+    assertEquals("1,5 файла", template.format(russian, 1.5));
+
+    MessageTemplate french = MessageTemplate.compile("{0, plural, one {# jour} other {# jours}}");
+    assertEquals("0 jour", french.format(Locale.FRANCE, 0));
+    assertEquals("2 jours", french.format(Locale.FRANCE, 2));
+  }
+
+  @Test
+  @DisplayName("Render select arguments with nested plural arguments")
+  void testSelect() {
+    MessageTemplate template = MessageTemplate.compile(
+      "{0, select, female {She has} male {He has} other {They have}} "
+        + "{1, plural, one {# new follower} other {# new followers}}");
+
+    assertEquals("She has 1 new follower", template.format(Locale.US, "female", 1));
+    assertEquals("He has 2 new followers", template.format(Locale.US, "male", 2));
+    assertEquals("They have 3 new followers", template.format(Locale.US, null, 3));
+  }
+
+  @Test
+  @DisplayName("Reject invalid patterns")
+  void testInvalidPatterns() {
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, plural, one {x}}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, select, a {x}}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, plural, lots {x} other {y}}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, choice, 0#none|1#one}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{name}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, plural, other {x}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{2147483648}"));
+  }
+
+  @Test
+  @DisplayName("Reject duplicate plural and select keywords")
+  void testDuplicateKeywords() {
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, plural, one {x} one {y} other {z}}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, plural, =1 {x} =1 {y} other {z}}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, select, a {x} a {y} other {z}}"));
+    assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0, select, other {x} other {y}}"));
+  }
+
+  @Test
+  @DisplayName("Render the largest argument index")
+  void testLargestArgumentIndex() {
+    assertEquals("{2147483647}", MessageTemplate.compile("{2147483647}").format(Locale.US, "a"));
+  }
+
+  @Test
+  @DisplayName("Compile each pattern once")
+  void testFormatterCachesTemplates() {
+    MessageTemplateFormatter formatter = new MessageTemplateFormatter();
+
+    assertSame(formatter.getTemplate(MESSAGES), formatter.getTemplate(MESSAGES));
+    assertEquals("You have 2 messages.", formatter.format(MESSAGES, Locale.US, 2));
+  }
+
+  @Test
+  @DisplayName("Compute plural operands of decimal numbers")
+  void testPluralRules() {
+    PluralRules english = PluralRules.forLocale(Locale.US);
+
+    assertEquals(PluralCategory.ONE, english.select(1));
+    assertEquals(PluralCategory.ONE, english.select(1.0));
+    assertEquals(PluralCategory.OTHER, english.select(new BigDecimal("1.5")));
+    assertEquals(PluralCategory.OTHER, english.select(Double.NaN));
+    assertEquals(PluralCategory.MANY, PluralRules.forLocale(Locale.FRANCE).select(2_000_000));
+    assertEquals(PluralCategory.TWO, PluralRules.forLocale(Locale.forLanguageTag("ar")).select(2));
+    assertEquals(PluralCategory.OTHER, PluralRules.forLocale(Locale.JAPAN).select(1));
+    assertEquals(PluralCategory.MANY, PluralRules.forLocale(Locale.forLanguageTag("pt-PT")).select(1_000_000));
+    assertEquals(PluralCategory.ONE, PluralRules.forLocale(Locale.forLanguageTag("pt-BR")).select(0));
+    assertEquals(PluralCategory.OTHER, PluralRules.forLocale(Locale.forLanguageTag("mr")).select(0));
+    assertEquals(PluralCategory.ONE, PluralRules.forLocale(Locale.forLanguageTag("mr")).select(1));
+  }
+
+  @Test
+  @DisplayName("Select plural categories for languages with few and many forms")
+  void testPluralRulesOfOtherLanguages() {
+    assertEquals(PluralCategory.ONE, rules("ro").select(1));
+    assertEquals(PluralCategory.FEW, rules("ro").select(2));
+    assertEquals(PluralCategory.FEW, rules("ro").select(119));
+    assertEquals(PluralCategory.OTHER, rules("ro").select(20));
+    assertEquals(PluralCategory.ONE, rules("hr").select(21));
+    assertEquals(PluralCategory.FEW, rules("sr").select(new BigDecimal("0.2")));
+    assertEquals(PluralCategory.OTHER, rules("bs").select(11));
+    assertEquals(PluralCategory.TWO, rules("sl").select(102));
+    assertEquals(PluralCategory.FEW, rules("sl").select(1.5));
+    assertEquals(PluralCategory.ONE, rules("lt").select(31));
+    assertEquals(PluralCategory.OTHER, rules("lt").select(12));
+    assertEquals(PluralCategory.MANY, rules("lt").select(1.5));
+    assertEquals(PluralCategory.ZERO, rules("lv").select(10));
+    assertEquals(PluralCategory.ONE, rules("lv").select(21));
+    assertEquals(PluralCategory.ONE, rules("mk").select(11.1));
+    assertEquals(PluralCategory.ONE, rules("is").select(21));
+    assertEquals(PluralCategory.MANY, rules("ga").select(7));
+    assertEquals(PluralCategory.MANY, rules("cy").select(6));
+    assertEquals(PluralCategory.OTHER, rules("fil").select(4));
+    assertEquals(PluralCategory.ONE, rules("fil").select(5));
+    assertEquals(PluralCategory.FEW, rules("mt").select(0));
+    assertEquals(PluralCategory.MANY, rules("mt").select(115));
+  }
+
+  @Test
+  @DisplayName("Select the plural category of the rendered number")
+  void testPluralCategoryOfRenderedNumber() {
+    MessageTemplate template = MessageTemplate.compile("{0, plural, one {# file} other {# files}}");
+
+    assertEquals("1 file", template.format(Locale.US, 1.0004));
+    assertEquals("1.001 files", template.format(Locale.US, 1.0006));
+    assertEquals("1 file", template.format(Locale.US, new BigDecimal("1.0000")));
+  }
+
+  @Test
+  @DisplayName("Subtract plural offsets without losing precision")
+  void testPluralOffsetPrecision() {
+    MessageTemplate template = MessageTemplate.compile("{0, plural, offset:1 other {#}}");
+
+    assertEquals("9,007,199,254,740,992", template.format(Locale.US, 9_007_199_254_740_993L));
+    assertEquals("99,999,999,999,999,999,999", template.format(Locale.US, new BigDecimal("1E20")));
+  }
+
+  private static PluralRules rules(final String languageTag) {
+    return PluralRules.forLocale(Locale.forLanguageTag(languageTag));
+  }
+
+  @Test
+  @DisplayName("Compute plural operands of numbers outside the long range")
+  void testPluralOperandsOutsideLongRange() {
+    PluralRules french = PluralRules.forLocale(Locale.FRANCE);
+
+    assertEquals(PluralCategory.OTHER, PluralRules.forLocale(Locale.US).select(Long.MIN_VALUE));
+    assertEquals(PluralCategory.MANY, french.select(new BigDecimal("-1E21")));
+    assertEquals(PluralCategory.MANY, french.select(new BigDecimal("1E30")));
+    assertEquals(PluralCategory.OTHER, french.select(new BigDecimal("1E30").add(BigDecimal.TEN)));
+    assertEquals(PluralCategory.ONE, PluralRules.forLocale(Locale.forLanguageTag("ru")).select(new BigDecimal("1E30").add(BigDecimal.ONE)));
+  }
+
+  @Test
+  @DisplayName("Compute plural operands of numbers without a decimal string")
+  void testPluralOperandsOfCustomNumber() {
+    Number one = new Number() {
+      @Override public int intValue() { return 1; }
+      @Override public long longValue() { return 1; }
+      @Override public float floatValue() { return 1; }
+      @Override public double doubleValue() { return 1; }
+      @Override public String toString() { return "one"; }
+    };
+
+    assertEquals(PluralCategory.ONE, PluralRules.forLocale(Locale.US).select(one));
+    assertEquals("1 message", MessageTemplate.compile("{0, plural, one {# message} other {# messages}}").format(Locale.US, one));
+  }
+}